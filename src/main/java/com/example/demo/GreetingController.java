@@ -1,6 +1,7 @@
 package com.example.demo;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -11,6 +12,7 @@ import com.example.demo.service.DatabaseLoadService;
 import com.example.demo.service.DelayLoadService;
 import com.example.demo.service.LoggingService;
 import com.example.demo.service.MemoryLoadService;
+import com.example.demo.startup.StartupReport;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
@@ -25,24 +27,33 @@ public class GreetingController {
     @Autowired
     private IpLogRepository ipLogRepository;
 
+    // Load services are resolved on first use so the fast-startup profile can create them lazily
     @Autowired
+    @Lazy
     private CpuLoadService cpuLoadService;
 
     @Autowired
+    @Lazy
     private MemoryLoadService memoryLoadService;
 
     @Autowired
+    @Lazy
     private DatabaseLoadService databaseLoadService;
 
     @Autowired
+    @Lazy
     private DelayLoadService delayLoadService;
 
     @Autowired
+    @Lazy
     private DatabaseCleanupService databaseCleanupService;
 
     @Autowired
     private LoggingService loggingService;
 
+    @Autowired
+    private StartupReport startupReport;
+
     @PostMapping("/greet")
     public String greet(
             @RequestParam String name,
@@ -53,6 +64,8 @@ public class GreetingController {
             @RequestParam(defaultValue = "false") boolean enableDbWrites,
             @RequestParam(defaultValue = "false") boolean enableDbReads,
             @RequestParam(defaultValue = "false") boolean enableDelays,
+            // Run DB write batches concurrently instead of sequentially
+            @RequestParam(defaultValue = "false") boolean parallelDbWrites,
             // Database cleanup parameter
             @RequestParam(defaultValue = "false") boolean enableCleanup) {
 
@@ -87,7 +100,11 @@ public class GreetingController {
 
         // 3. CONFIGURABLE ADDITIONAL DATABASE WRITES
         if (enableDbWrites) {
-            databaseLoadService.performDatabaseWrites(name, ip, now);
+            if (parallelDbWrites) {
+                databaseLoadService.performParallelDatabaseWrites(name, ip, now);
+            } else {
+                databaseLoadService.performDatabaseWrites(name, ip, now);
+            }
         }
 
         // OPTIMIZED DATABASE READS
@@ -103,6 +120,21 @@ public class GreetingController {
         // Get the last two entries for response
         List<IpLog> logs = ipLogRepository.findTop2ByOrderByTimestampDesc();
 
+        // Log request completion
+        loggingService.logRequestComplete(name);
+        startupReport.recordFirstGreet();
+
+        return formatGreeting(name, now, logs, enableCpu, enableMemory,
+                enableDbWrites, enableDbReads, enableDelays, enableCleanup);
+    }
+
+    /**
+     * FORMAT GREETING RESPONSE
+     * Shared with the reactive endpoint so both return identical bodies
+     */
+    static String formatGreeting(String name, LocalDateTime now, List<IpLog> logs,
+            boolean enableCpu, boolean enableMemory, boolean enableDbWrites,
+            boolean enableDbReads, boolean enableDelays, boolean enableCleanup) {
         String lastName = "N/A", lastTime = "N/A";
         if (logs.size() > 1) {
             IpLog prev = logs.get(1);
@@ -110,9 +142,6 @@ public class GreetingController {
             lastTime = formatDateTime(prev.getTimestamp());
         }
 
-        // Log request completion
-        loggingService.logRequestComplete(name);
-
         return String.format(
                 "Hello %s!%nThe current system time is %s%nThe last query was by - %s on %s%n" +
                         "Load testing executed - CPU:%s Memory:%s DB-Writes:%s DB-Reads:%s Delays:%s Cleanup:%s%n",
@@ -125,7 +154,7 @@ public class GreetingController {
     /**
      * FORMAT DATE TIME
      */
-    private String formatDateTime(LocalDateTime dt) {
+    private static String formatDateTime(LocalDateTime dt) {
         String time = dt.format(DateTimeFormatter.ofPattern("HH:mm:ss"));
         String dow = dt.getDayOfWeek().getDisplayName(TextStyle.FULL, Locale.ENGLISH);
         int day = dt.getDayOfMonth();
@@ -137,7 +166,7 @@ public class GreetingController {
     /**
      * GET ORDINAL
      */
-    private String getOrdinal(int day) {
+    private static String getOrdinal(int day) {
         if (day >= 11 && day <= 13)
             return "th";
         switch (day % 10) {
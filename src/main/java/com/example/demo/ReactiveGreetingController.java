@@ -0,0 +1,92 @@
+package com.example.demo;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.demo.service.LoggingService;
+import com.example.demo.service.ReactiveLoadService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking variant of {@link GreetingController}.
+ * Returning a Mono releases the Tomcat thread as soon as the pipeline is
+ * assembled; the stages then run on reactor timers, R2DBC and the bounded
+ * load scheduler instead of holding a servlet thread.
+ */
+@RestController
+public class ReactiveGreetingController {
+
+    @Autowired
+    private ReactiveIpLogRepository reactiveIpLogRepository;
+
+    // Resolved on first use so the fast-startup profile can create it lazily
+    @Autowired
+    @Lazy
+    private ReactiveLoadService reactiveLoadService;
+
+    @Autowired
+    private LoggingService loggingService;
+
+    @PostMapping("/greet-reactive")
+    public Mono<String> greet(
+            @RequestParam String name,
+            HttpServletRequest request,
+            // Load control parameters - all default to false
+            @RequestParam(defaultValue = "false") boolean enableCpu,
+            @RequestParam(defaultValue = "false") boolean enableMemory,
+            @RequestParam(defaultValue = "false") boolean enableDbWrites,
+            @RequestParam(defaultValue = "false") boolean enableDbReads,
+            @RequestParam(defaultValue = "false") boolean enableDelays,
+            // Database cleanup parameter
+            @RequestParam(defaultValue = "false") boolean enableCleanup) {
+
+        String ip = request.getRemoteAddr();
+        LocalDateTime now = LocalDateTime.now();
+
+        // Log request start with configuration
+        loggingService.logRequestStart(name, ip, enableCpu, enableMemory,
+                enableDbWrites, enableDbReads, enableDelays, enableCleanup);
+
+        IpLog mainLog = new IpLog();
+        mainLog.setName(name);
+        mainLog.setIp(ip);
+        mainLog.setTimestamp(now);
+
+        // Same stage order as the blocking endpoint
+        Mono<Void> pipeline = Mono.empty();
+        if (enableCleanup) {
+            pipeline = pipeline.then(reactiveLoadService.performCleanup());
+        }
+        if (enableCpu) {
+            pipeline = pipeline.then(reactiveLoadService.performCpuLoad());
+        }
+        if (enableMemory) {
+            pipeline = pipeline.then(reactiveLoadService.performMemoryLoad());
+        }
+        pipeline = pipeline.then(reactiveIpLogRepository.save(mainLog).then());
+        if (enableDbWrites) {
+            pipeline = pipeline.then(reactiveLoadService.performDatabaseWrites(name, ip, now));
+        }
+        if (enableDbReads) {
+            pipeline = pipeline.then(reactiveLoadService.performDatabaseReads());
+        }
+        if (enableDelays) {
+            pipeline = pipeline.then(reactiveLoadService.performDelayLoad());
+        }
+
+        return pipeline
+                .then(reactiveIpLogRepository.findTopNByOrderByTimestampDesc(2))
+                .map(logs -> {
+                    loggingService.logRequestComplete(name);
+                    return GreetingController.formatGreeting(name, now, logs, enableCpu, enableMemory,
+                            enableDbWrites, enableDbReads, enableDelays, enableCleanup);
+                });
+    }
+}
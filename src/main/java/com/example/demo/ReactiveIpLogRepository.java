@@ -0,0 +1,83 @@
+package com.example.demo;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Non-blocking counterpart of {@link IpLogRepository} on R2DBC
+ */
+@Repository
+public class ReactiveIpLogRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO ip_log (name, ip, timestamp) VALUES ($1, $2, $3)";
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    public Mono<Long> save(IpLog ipLog) {
+        return saveAll(List.of(ipLog));
+    }
+
+    // Inserts all records with a single statement execution, one binding set per record
+    public Mono<Long> saveAll(List<IpLog> ipLogs) {
+        return databaseClient.inConnection(connection -> {
+            Statement statement = connection.createStatement(INSERT_SQL);
+            for (int i = 0; i < ipLogs.size(); i++) {
+                if (i > 0) {
+                    statement.add();
+                }
+                IpLog ipLog = ipLogs.get(i);
+                statement.bind(0, ipLog.getName())
+                        .bind(1, ipLog.getIp())
+                        .bind(2, ipLog.getTimestamp());
+            }
+            return Flux.from(statement.execute())
+                    .flatMap(Result::getRowsUpdated)
+                    .reduce(0L, Long::sum);
+        });
+    }
+
+    // Method to find last N entries ordered by timestamp
+    public Mono<List<IpLog>> findTopNByOrderByTimestampDesc(int limit) {
+        return databaseClient.sql("SELECT id, name, ip, timestamp FROM ip_log ORDER BY timestamp DESC LIMIT :limit")
+                .bind("limit", limit)
+                .map(ReactiveIpLogRepository::toIpLog)
+                .all()
+                .collectList();
+    }
+
+    // Method to delete all records except the last N entries
+    public Mono<Long> deleteAllExceptLastN(int keepCount) {
+        return databaseClient.sql("DELETE FROM ip_log WHERE id NOT IN " +
+                "(SELECT id FROM (SELECT id FROM ip_log ORDER BY timestamp DESC LIMIT :keepCount) AS temp)")
+                .bind("keepCount", keepCount)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    // Method to count total records (for cleanup logging)
+    public Mono<Long> countTotalRecords() {
+        return databaseClient.sql("SELECT COUNT(*) FROM ip_log")
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    private static IpLog toIpLog(Readable row) {
+        IpLog ipLog = new IpLog();
+        ipLog.setId(row.get("id", Long.class));
+        ipLog.setName(row.get("name", String.class));
+        ipLog.setIp(row.get("ip", String.class));
+        ipLog.setTimestamp(row.get("timestamp", LocalDateTime.class));
+        return ipLog;
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.demo.jdbc;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.demo.service.LoggingService;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binds a fresh {@link JdbcStatementStats} to every application request and publishes
+ * the totals as distributions tagged by endpoint and enabled flag combination.
+ */
+@Component
+@ConditionalOnProperty(name = "app.jdbc.instrumentation.enabled", havingValue = "true", matchIfMissing = true)
+public class JdbcRequestStatsFilter extends OncePerRequestFilter {
+
+    // Flags allowed in the "flags" tag, in tag order; anything else is ignored to keep tag cardinality fixed
+    private static final List<String> FLAG_PARAMETERS = List.of("enableCpu", "enableMemory",
+            "enableDbWrites", "enableDbReads", "enableDelays", "enableCleanup", "parallelDbWrites");
+
+    // Endpoints that are recorded; actuator scrapes, health checks and unmatched paths are not.
+    // /greet-reactive is left out because it does its work asynchronously over R2DBC, not JDBC
+    private static final Set<String> RECORDED_ENDPOINTS = Set.of("/greet");
+
+    // Bucket boundaries for per-request counts, wide enough for the default 30 x 100 record load
+    private static final double[] COUNT_BUCKETS = { 1, 10, 100, 1_000, 10_000, 100_000 };
+
+    private static final Duration[] TIME_BUCKETS = { Duration.ofMillis(10), Duration.ofMillis(50),
+            Duration.ofMillis(100), Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofSeconds(5),
+            Duration.ofSeconds(10) };
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private LoggingService loggingService;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !RECORDED_ENDPOINTS.contains(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        JdbcStatementStats stats = new JdbcStatementStats();
+        JdbcStatementStats previous = JdbcStatementStats.bind(stats);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            JdbcStatementStats.bind(previous);
+            publish(request, stats);
+        }
+    }
+
+    private void publish(HttpServletRequest request, JdbcStatementStats stats) {
+        String endpoint = request.getServletPath();
+        String flags = enabledFlags(request);
+        Tags tags = Tags.of("endpoint", endpoint, "flags", flags);
+
+        summary("app.jdbc.request.statements", "JDBC statement executions per request", tags)
+                .record(stats.getStatements());
+        summary("app.jdbc.request.batches", "JDBC batch executions per request", tags)
+                .record(stats.getBatches());
+        summary("app.jdbc.request.round-trips", "JDBC round trips (statements plus batches) per request", tags)
+                .record(stats.getRoundTrips());
+        summary("app.jdbc.request.rows", "Rows read or updated per request", tags)
+                .record(stats.getRows());
+        Timer.builder("app.jdbc.request.time")
+                .description("Time spent executing JDBC statements per request")
+                .tags(tags)
+                .serviceLevelObjectives(TIME_BUCKETS)
+                .register(meterRegistry)
+                .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        loggingService.logJdbcRequestStats(endpoint, flags, stats.toString());
+    }
+
+    private DistributionSummary summary(String name, String description, Tags tags) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tags(tags)
+                .serviceLevelObjectives(COUNT_BUCKETS)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Names of the known load flags set to true, e.g. "enableDbWrites+enableDbReads"
+     */
+    private static String enabledFlags(HttpServletRequest request) {
+        List<String> enabled = new ArrayList<>();
+        for (String flag : FLAG_PARAMETERS) {
+            if ("true".equalsIgnoreCase(request.getParameter(flag))) {
+                enabled.add(flag);
+            }
+        }
+        return enabled.isEmpty() ? "none" : String.join("+", enabled);
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.demo.jdbc;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JDBC activity recorded for one unit of work (usually one HTTP request).
+ * The active instance is bound to the current thread; work handed to other
+ * threads can be attributed to the same instance with {@link #propagate}.
+ */
+public class JdbcStatementStats {
+
+    private static final ThreadLocal<JdbcStatementStats> CURRENT = new ThreadLocal<>();
+
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchedStatements = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder jdbcNanos = new LongAdder();
+
+    /**
+     * Returns the stats bound to the current thread, or null when nothing is being recorded
+     */
+    public static JdbcStatementStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds the given stats to the current thread and returns the previously bound instance
+     */
+    public static JdbcStatementStats bind(JdbcStatementStats stats) {
+        JdbcStatementStats previous = CURRENT.get();
+        if (stats == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(stats);
+        }
+        return previous;
+    }
+
+    /**
+     * Runs the action with fresh stats bound to the current thread and returns them
+     */
+    public static JdbcStatementStats capture(Runnable action) {
+        JdbcStatementStats stats = new JdbcStatementStats();
+        JdbcStatementStats previous = bind(stats);
+        try {
+            action.run();
+        } finally {
+            bind(previous);
+        }
+        return stats;
+    }
+
+    /**
+     * Wraps a task so that it records into the stats bound to the calling thread
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        JdbcStatementStats stats = current();
+        if (stats == null) {
+            return task;
+        }
+        return () -> {
+            JdbcStatementStats previous = bind(stats);
+            try {
+                return task.call();
+            } finally {
+                bind(previous);
+            }
+        };
+    }
+
+    void recordStatement(long nanos) {
+        statements.increment();
+        jdbcNanos.add(nanos);
+    }
+
+    void recordBatch(long nanos) {
+        batches.increment();
+        jdbcNanos.add(nanos);
+    }
+
+    void recordBatchedStatement() {
+        batchedStatements.increment();
+    }
+
+    void recordRows(long count) {
+        rows.add(count);
+    }
+
+    /** Number of non-batch statement executions, each one a JDBC round trip */
+    public long getStatements() {
+        return statements.sum();
+    }
+
+    /** Number of executeBatch calls, each one a JDBC round trip */
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    /** Number of statements queued with addBatch */
+    public long getBatchedStatements() {
+        return batchedStatements.sum();
+    }
+
+    /** Total JDBC round trips (statement executions plus batch executions) */
+    public long getRoundTrips() {
+        return getStatements() + getBatches();
+    }
+
+    /** Rows read from result sets plus rows reported as updated */
+    public long getRows() {
+        return rows.sum();
+    }
+
+    /** Time spent inside statement and batch execution calls */
+    public long getJdbcNanos() {
+        return jdbcNanos.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "statements=" + getStatements() + ", batches=" + getBatches()
+                + ", batchedStatements=" + getBatchedStatements() + ", rows=" + getRows()
+                + ", jdbcTimeMs=" + getJdbcNanos() / 1_000_000;
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.demo.jdbc;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource wrapper that records statement executions, batch executions,
+ * rows and JDBC time into the {@link JdbcStatementStats} bound to the calling thread.
+ * Connections obtained while no stats are bound are still proxied but record nothing.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    public StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            // Only createStatement, prepareStatement and prepareCall return statements
+            if (result instanceof Statement statement) {
+                return proxy(method.getReturnType(), statement, new StatementHandler());
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Counts execute* calls on a statement; every call is one JDBC round trip
+     */
+    private static class StatementHandler implements TargetInvocationHandler {
+
+        @Override
+        public Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            JdbcStatementStats stats = JdbcStatementStats.current();
+
+            if (stats == null) {
+                return StatementCountingDataSource.invoke(target, method, args);
+            }
+            if (name.equals("addBatch")) {
+                stats.recordBatchedStatement();
+                return StatementCountingDataSource.invoke(target, method, args);
+            }
+            if (!name.startsWith("execute")) {
+                return StatementCountingDataSource.invoke(target, method, args);
+            }
+
+            long start = System.nanoTime();
+            Object result = StatementCountingDataSource.invoke(target, method, args);
+            long elapsed = System.nanoTime() - start;
+
+            if (name.startsWith("executeBatch") || name.startsWith("executeLargeBatch")) {
+                stats.recordBatch(elapsed);
+                stats.recordRows(sumUpdateCounts(result));
+            } else {
+                stats.recordStatement(elapsed);
+                if (result instanceof Integer count && count > 0) {
+                    stats.recordRows(count);
+                } else if (result instanceof Long count && count > 0) {
+                    stats.recordRows(count);
+                } else if (result instanceof ResultSet resultSet) {
+                    return proxy(ResultSet.class, resultSet, new ResultSetHandler(stats));
+                }
+            }
+            return result;
+        }
+
+        private static long sumUpdateCounts(Object result) {
+            long total = 0;
+            if (result instanceof int[] counts) {
+                for (int count : counts) {
+                    total += Math.max(count, 0);
+                }
+            } else if (result instanceof long[] counts) {
+                for (long count : counts) {
+                    total += Math.max(count, 0);
+                }
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Counts rows as they are read from a result set
+     */
+    private static class ResultSetHandler implements TargetInvocationHandler {
+
+        private final JdbcStatementStats stats;
+
+        ResultSetHandler(JdbcStatementStats stats) {
+            this.stats = stats;
+        }
+
+        @Override
+        public Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            Object result = StatementCountingDataSource.invoke(target, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                stats.recordRows(1);
+            }
+            return result;
+        }
+    }
+
+    @FunctionalInterface
+    private interface TargetInvocationHandler {
+        Object invoke(Object target, Method method, Object[] args) throws Throwable;
+    }
+
+    private static <T> T proxy(Class<T> type, Object target, TargetInvocationHandler handler) {
+        // Identity semantics must stay on the proxy: Hibernate tracks open statements in hash maps
+        InvocationHandler invocationHandler = (proxy, method, args) -> switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> handler.invoke(target, method, args);
+        };
+        return type.cast(Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(),
+                new Class<?>[] { type }, invocationHandler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -24,6 +24,10 @@ public class DatabaseCleanupService {
         performDatabaseCleanup();
     }
 
+    public int getKeepRecordsCount() {
+        return keepRecordsCount;
+    }
+
     /**
      * DATABASE CLEANUP METHOD
      * Purges all records except the last N entries as configured in
@@ -2,14 +2,36 @@ package com.example.demo.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.example.demo.IpLog;
 import com.example.demo.IpLogRepository;
+import com.example.demo.jdbc.JdbcStatementStats;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class DatabaseLoadService {
@@ -20,6 +42,15 @@ public class DatabaseLoadService {
     @Autowired
     private LoggingService loggingService;
 
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     // Database Configuration - Common number for both reads and writes
     @Value("${app.load.db.operations:20}")
     private int dbOperations;
@@ -28,11 +59,80 @@ public class DatabaseLoadService {
     @Value("${app.load.db.records-per-operation:100}")
     private int dbRecordsPerOperation;
 
+    // Parallel Write Configuration - number of worker threads writing batches concurrently
+    @Value("${app.load.db.parallel.concurrency:4}")
+    private int parallelConcurrency;
+
+    // Parallel Write Configuration - isolation level of each batch transaction
+    @Value("${app.load.db.parallel.isolation:READ_COMMITTED}")
+    private String parallelIsolation;
+
+    private ExecutorService writeExecutor;
+    private TransactionTemplate batchTransactionTemplate;
+    private Timer batchAcquireTimer;
+    private Timer batchWriteTimer;
+    private DistributionSummary throughputSummary;
+    private Counter failureCounter;
+
+    @PostConstruct
+    void initParallelWrites() {
+        writeExecutor = Executors.newFixedThreadPool(parallelConcurrency,
+                new CustomizableThreadFactory("db-writer-"));
+
+        batchTransactionTemplate = new TransactionTemplate(transactionManager);
+        batchTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        batchTransactionTemplate.setIsolationLevelName("ISOLATION_" + parallelIsolation);
+
+        String concurrencyTag = String.valueOf(parallelConcurrency);
+        batchAcquireTimer = Timer.builder("app.db.parallel.write.acquire")
+                .description("Time from batch transaction start until a connection is bound and the transaction has begun")
+                .tag("concurrency", concurrencyTag)
+                .tag("isolation", parallelIsolation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        batchWriteTimer = Timer.builder("app.db.parallel.write.batch")
+                .description("Total time of one parallel batch transaction, including commit")
+                .tag("concurrency", concurrencyTag)
+                .tag("isolation", parallelIsolation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        throughputSummary = DistributionSummary.builder("app.db.parallel.write.throughput")
+                .description("Records inserted per second by one parallel write run")
+                .baseUnit("records.per.second")
+                .tag("concurrency", concurrencyTag)
+                .tag("isolation", parallelIsolation)
+                .register(meterRegistry);
+        failureCounter = Counter.builder("app.db.parallel.write.failures")
+                .description("Parallel write batches that failed or were cancelled")
+                .tag("concurrency", concurrencyTag)
+                .tag("isolation", parallelIsolation)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdownParallelWrites() {
+        writeExecutor.shutdown();
+    }
+
     public void performDatabaseWrites(String name, String ip, LocalDateTime now) {
         loggingService.logDbWriteStart(dbOperations, dbRecordsPerOperation);
         performConfigurableDatabaseWrites(name, ip, now);
     }
 
+    public void performParallelDatabaseWrites(String name, String ip, LocalDateTime now) {
+        loggingService.logParallelDbWriteStart(dbOperations, dbRecordsPerOperation,
+                parallelConcurrency, parallelIsolation);
+        performConcurrentDatabaseWrites(name, ip, now);
+    }
+
+    public int getDbOperations() {
+        return dbOperations;
+    }
+
+    public int getDbRecordsPerOperation() {
+        return dbRecordsPerOperation;
+    }
+
     public void performOptimizedDatabaseReads() {
         loggingService.logDbReadStart(dbOperations);
         performOptimizedDatabaseReadsInternal();
@@ -47,16 +147,7 @@ public class DatabaseLoadService {
         
         // Perform the configured number of batch operations
         for (int batchNum = 0; batchNum < dbOperations; batchNum++) {
-            List<IpLog> batchLogs = new ArrayList<>();
-            
-            // Create a batch of records
-            for (int recordNum = 0; recordNum < dbRecordsPerOperation; recordNum++) {
-                IpLog batchLog = new IpLog();
-                batchLog.setName(name + "_batch" + batchNum + "_rec" + recordNum);
-                batchLog.setIp(ip);
-                batchLog.setTimestamp(now.plusSeconds(totalRecordsInserted + recordNum));
-                batchLogs.add(batchLog);
-            }
+            List<IpLog> batchLogs = createBatch(name, ip, now, batchNum, totalRecordsInserted);
             
             // Save the entire batch in one operation
             ipLogRepository.saveAll(batchLogs);
@@ -68,6 +159,133 @@ public class DatabaseLoadService {
         loggingService.logDbWriteComplete(dbOperations, totalRecordsInserted);
     }
 
+    /**
+     * CONCURRENT BATCH DATABASE WRITES
+     * Each batch runs on a shared bounded worker pool in its own transaction,
+     * so writers compete for pooled connections and locks as they do in production
+     */
+    private void performConcurrentDatabaseWrites(String name, String ip, LocalDateTime now) {
+        long startNanos = System.nanoTime();
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        for (int batchNum = 0; batchNum < dbOperations; batchNum++) {
+            List<IpLog> batchLogs = createBatch(name, ip, now, batchNum, batchNum * dbRecordsPerOperation);
+            int batchNumber = batchNum + 1;
+            futures.add(writeExecutor.submit(JdbcStatementStats.propagate(
+                    () -> writeBatchInOwnTransaction(batchNumber, batchLogs))));
+        }
+
+        // If this request is interrupted, its outstanding batches must not keep occupying the shared pool
+        boolean interrupted = !awaitBatches(futures);
+        if (interrupted) {
+            futures.forEach(future -> future.cancel(true));
+        }
+
+        int totalRecordsInserted = 0;
+        int failedBatches = 0;
+        RuntimeException firstFailure = null;
+        for (Future<Integer> future : futures) {
+            try {
+                totalRecordsInserted += future.get();
+            } catch (CancellationException | InterruptedException | ExecutionException e) {
+                failedBatches++;
+                RuntimeException failure = batchFailure(e);
+                if (firstFailure == null) {
+                    firstFailure = failure;
+                } else if (failure != firstFailure) {
+                    firstFailure.addSuppressed(failure);
+                }
+                if (e instanceof ExecutionException) {
+                    loggingService.logError("Parallel database write batch failed", e.getCause());
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        double recordsPerSecond = elapsedSeconds > 0 ? totalRecordsInserted / elapsedSeconds : 0;
+
+        loggingService.logParallelDbWriteComplete(dbOperations, failedBatches, totalRecordsInserted,
+                Math.round(elapsedSeconds * 1000), recordsPerSecond);
+        logPoolSnapshot();
+
+        // A run with failed batches is not a valid throughput sample; fail the request like the sequential path
+        if (firstFailure != null) {
+            failureCounter.increment(failedBatches);
+            throw firstFailure;
+        }
+        throughputSummary.record(recordsPerSecond);
+    }
+
+    private static RuntimeException batchFailure(Exception e) {
+        Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException("Parallel database write batch did not complete", cause);
+    }
+
+    /**
+     * Waits for every batch to finish; returns false if the calling thread was interrupted
+     */
+    private boolean awaitBatches(List<Future<Integer>> futures) {
+        for (Future<Integer> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                // Reported when the results are collected
+            } catch (InterruptedException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int writeBatchInOwnTransaction(int batchNumber, List<IpLog> batchLogs) {
+        long transactionStart = System.nanoTime();
+        batchWriteTimer.record(() -> batchTransactionTemplate.executeWithoutResult(status -> {
+            batchAcquireTimer.record(System.nanoTime() - transactionStart, TimeUnit.NANOSECONDS);
+            ipLogRepository.saveAll(batchLogs);
+        }));
+        loggingService.logDbWriteBatch(batchNumber, batchLogs.size());
+        return batchLogs.size();
+    }
+
+    /**
+     * Logs current Hikari pool state; the pool gauges themselves are
+     * published continuously as hikaricp.connections.* metrics
+     */
+    private void logPoolSnapshot() {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+                if (pool != null) {
+                    loggingService.logConnectionPoolSnapshot(pool.getActiveConnections(),
+                            pool.getIdleConnections(), pool.getThreadsAwaitingConnection(),
+                            pool.getTotalConnections());
+                }
+            }
+        } catch (SQLException e) {
+            loggingService.logWarn("Unable to read connection pool state: {}", e.getMessage());
+        }
+    }
+
+    public List<IpLog> createBatch(String name, String ip, LocalDateTime now, int batchNum, int recordOffset) {
+        List<IpLog> batchLogs = new ArrayList<>();
+
+        // Create a batch of records
+        for (int recordNum = 0; recordNum < dbRecordsPerOperation; recordNum++) {
+            IpLog batchLog = new IpLog();
+            batchLog.setName(name + "_batch" + batchNum + "_rec" + recordNum);
+            batchLog.setIp(ip);
+            batchLog.setTimestamp(now.plusSeconds(recordOffset + recordNum));
+            batchLogs.add(batchLog);
+        }
+        return batchLogs;
+    }
+
     /**
      * OPTIMIZED DATABASE READS - No unnecessary delays
      */
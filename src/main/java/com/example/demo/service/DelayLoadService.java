@@ -26,10 +26,21 @@ public class DelayLoadService {
         loggingService.logDelayLoadComplete(externalServiceCalls, mathOperations);
     }
 
+    public int getExternalServiceCalls() {
+        return externalServiceCalls;
+    }
+
+    public int getExternalCallDelay() {
+        return externalCallDelay;
+    }
+
+    public int getMathOperations() {
+        return mathOperations;
+    }
+
     /**
      * CONFIGURABLE SLOW PROCESSING
      */
-    @SuppressWarnings("unused")
     private void simulateConfigurableSlowProcessing() {
         try {
             // Simulate configurable number of external service calls
@@ -37,15 +48,22 @@ public class DelayLoadService {
                 loggingService.logExternalCall(i + 1);
                 Thread.sleep(externalCallDelay);
             }
-
-            // Simulate configurable complex calculations
-            double total = 0;
-            for (int i = 0; i < mathOperations; i++) {
-                total += Math.sin(i) * Math.cos(i) * Math.tan(i);
-            }
-
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
+            return;
+        }
+
+        performMathOperations();
+    }
+
+    /**
+     * Simulate configurable complex calculations
+     */
+    @SuppressWarnings("unused")
+    public void performMathOperations() {
+        double total = 0;
+        for (int i = 0; i < mathOperations; i++) {
+            total += Math.sin(i) * Math.cos(i) * Math.tan(i);
         }
     }
 }
\ No newline at end of file
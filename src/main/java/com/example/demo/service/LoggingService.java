@@ -71,6 +71,22 @@ public class LoggingService {
                    operations, totalRecords);
     }
 
+    public void logParallelDbWriteStart(int operations, int recordsPerBatch, int concurrency, String isolation) {
+        logger.info("Starting parallel database write operations - {} batches with {} records each, concurrency: {}, isolation: {}", 
+                   operations, recordsPerBatch, concurrency, isolation);
+    }
+
+    public void logParallelDbWriteComplete(int operations, int failedBatches, int totalRecords, 
+                                          long elapsedMs, double recordsPerSecond) {
+        logger.info("Parallel database write operations completed - {} batches ({} failed), {} total records inserted in {}ms ({} records/s)", 
+                   operations, failedBatches, totalRecords, elapsedMs, String.format("%.1f", recordsPerSecond));
+    }
+
+    public void logConnectionPoolSnapshot(int active, int idle, int pending, int total) {
+        logger.info("Connection pool state - Active: {}, Idle: {}, Pending: {}, Total: {}", 
+                   active, idle, pending, total);
+    }
+
     public void logDbReadStart(int operations) {
         logger.info("Starting optimized database read operations - {} read queries planned", operations);
     }
@@ -112,6 +128,11 @@ public class LoggingService {
         logger.error("Database cleanup failed: {}", errorMessage);
     }
 
+    // JDBC Statement Accounting Logging
+    public void logJdbcRequestStats(String endpoint, String flags, String stats) {
+        logger.debug("JDBC activity for {} [{}] - {}", endpoint, flags, stats);
+    }
+
     // Delay Load Logging
     public void logDelayLoadStart(int externalCalls, int delayMs) {
         logger.info("Starting delay load operations - {} external calls with {}ms delay each", 
@@ -127,6 +148,25 @@ public class LoggingService {
                    externalCalls, mathOperations);
     }
 
+    // Startup Report Logging
+    public void logStartupContextRefreshed(long sinceJvmStartMs, long runTimeMs) {
+        logger.info("Startup report - Context refreshed {}ms after JVM start (SpringApplication.run: {}ms)", 
+                   sinceJvmStartMs, runTimeMs);
+    }
+
+    public void logStartupBeanCost(String beanName, long durationMs) {
+        logger.info("Startup report - Bean '{}' instantiated in {}ms (including its dependencies)", 
+                   beanName, durationMs);
+    }
+
+    public void logStartupReady(long sinceJvmStartMs) {
+        logger.info("Startup report - Application ready {}ms after JVM start", sinceJvmStartMs);
+    }
+
+    public void logStartupFirstGreet(long sinceJvmStartMs) {
+        logger.info("Startup report - First /greet completed {}ms after JVM start", sinceJvmStartMs);
+    }
+
     // General Logging Methods
     public void logInfo(String message, Object... args) {
         logger.info(message, args);
@@ -30,16 +30,40 @@ public class MemoryLoadService {
     private int memoryHoldTime;
 
     public void performMemoryLoad() {
-        int totalMB = memoryChunks * memoryChunkSizeMb;
+        int totalMB = getTotalMemoryMb();
         loggingService.logMemoryLoadStart(totalMB);
         consumeConfigurableMemory();
         loggingService.logMemoryLoadComplete(totalMB);
     }
 
+    public int getTotalMemoryMb() {
+        return memoryChunks * memoryChunkSizeMb;
+    }
+
+    public int getMemoryHoldTime() {
+        return memoryHoldTime;
+    }
+
     /**
      * CONFIGURABLE MEMORY-INTENSIVE TASK
      */
     private void consumeConfigurableMemory() {
+        List<byte[]> memoryHogs = allocateConfigurableMemory();
+
+        try {
+            // Hold memory for configurable time
+            Thread.sleep(memoryHoldTime);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        memoryHogs.clear();
+    }
+
+    /**
+     * CONFIGURABLE MEMORY ALLOCATION
+     * Returns the allocated chunks so the caller decides how long they are held
+     */
+    public List<byte[]> allocateConfigurableMemory() {
         List<byte[]> memoryHogs = new ArrayList<>();
 
         try {
@@ -62,13 +86,9 @@ public class MemoryLoadService {
             String result = largeString.toString();
             loggingService.logStringOperationResult(result.length());
 
-            // Hold memory for configurable time
-            Thread.sleep(memoryHoldTime);
-
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
         } catch (OutOfMemoryError e) {
             loggingService.logMemoryError();
         }
+        return memoryHogs;
     }
 }
\ No newline at end of file
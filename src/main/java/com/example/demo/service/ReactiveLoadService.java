@@ -0,0 +1,176 @@
+package com.example.demo.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.IpLog;
+import com.example.demo.ReactiveIpLogRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Non-blocking versions of the load stages used by the reactive /greet endpoint.
+ * Waits use reactor timers instead of sleeping, database access goes through
+ * R2DBC, and CPU/memory work is offloaded to a bounded scheduler.
+ */
+@Service
+public class ReactiveLoadService {
+
+    @Autowired
+    private CpuLoadService cpuLoadService;
+
+    @Autowired
+    private MemoryLoadService memoryLoadService;
+
+    @Autowired
+    private DelayLoadService delayLoadService;
+
+    @Autowired
+    private DatabaseLoadService databaseLoadService;
+
+    @Autowired
+    private DatabaseCleanupService databaseCleanupService;
+
+    @Autowired
+    private ReactiveIpLogRepository reactiveIpLogRepository;
+
+    @Autowired
+    private LoggingService loggingService;
+
+    // Scheduler Configuration - worker threads for CPU and memory stages
+    @Value("${app.reactive.scheduler.threads:4}")
+    private int schedulerThreads;
+
+    // Scheduler Configuration - tasks allowed to queue per worker before new work is rejected
+    @Value("${app.reactive.scheduler.queue-size:1000}")
+    private int schedulerQueueSize;
+
+    private Scheduler loadScheduler;
+
+    @PostConstruct
+    void initScheduler() {
+        loadScheduler = Schedulers.newBoundedElastic(schedulerThreads, schedulerQueueSize, "reactive-load");
+    }
+
+    @PreDestroy
+    void disposeScheduler() {
+        loadScheduler.dispose();
+    }
+
+    public Mono<Void> performCpuLoad() {
+        return Mono.fromRunnable(cpuLoadService::performCpuLoad)
+                .subscribeOn(loadScheduler)
+                .then();
+    }
+
+    /**
+     * Allocates on the load scheduler, then holds the memory with a timer
+     * instead of a sleeping thread
+     */
+    public Mono<Void> performMemoryLoad() {
+        int totalMB = memoryLoadService.getTotalMemoryMb();
+        return Mono.fromCallable(() -> {
+                    loggingService.logMemoryLoadStart(totalMB);
+                    return memoryLoadService.allocateConfigurableMemory();
+                })
+                .subscribeOn(loadScheduler)
+                .flatMap(memoryHogs -> Mono.delay(Duration.ofMillis(memoryLoadService.getMemoryHoldTime()))
+                        .doOnNext(tick -> memoryHogs.clear()))
+                .doOnSuccess(tick -> loggingService.logMemoryLoadComplete(totalMB))
+                .then();
+    }
+
+    public Mono<Void> performDelayLoad() {
+        int externalCalls = delayLoadService.getExternalServiceCalls();
+        return Mono.defer(() -> {
+                    loggingService.logDelayLoadStart(externalCalls, delayLoadService.getExternalCallDelay());
+                    return Flux.range(1, externalCalls)
+                            .concatMap(callNumber -> {
+                                loggingService.logExternalCall(callNumber);
+                                return Mono.delay(Duration.ofMillis(delayLoadService.getExternalCallDelay()));
+                            })
+                            .then();
+                })
+                .then(Mono.fromRunnable(delayLoadService::performMathOperations).subscribeOn(loadScheduler))
+                .doOnSuccess(done -> loggingService.logDelayLoadComplete(externalCalls,
+                        delayLoadService.getMathOperations()))
+                .then();
+    }
+
+    public Mono<Void> performDatabaseWrites(String name, String ip, LocalDateTime now) {
+        int operations = databaseLoadService.getDbOperations();
+        int recordsPerOperation = databaseLoadService.getDbRecordsPerOperation();
+        return Mono.defer(() -> {
+                    loggingService.logDbWriteStart(operations, recordsPerOperation);
+                    return Flux.range(0, operations)
+                            .concatMap(batchNum -> {
+                                List<IpLog> batchLogs = databaseLoadService.createBatch(name, ip, now,
+                                        batchNum, batchNum * recordsPerOperation);
+                                return reactiveIpLogRepository.saveAll(batchLogs)
+                                        .doOnNext(rows -> loggingService.logDbWriteBatch(batchNum + 1, rows.intValue()));
+                            })
+                            .reduce(0L, Long::sum);
+                })
+                .doOnNext(total -> loggingService.logDbWriteComplete(operations, total.intValue()))
+                .then();
+    }
+
+    public Mono<Void> performDatabaseReads() {
+        int operations = databaseLoadService.getDbOperations();
+        int recordsPerOperation = databaseLoadService.getDbRecordsPerOperation();
+        return Mono.defer(() -> {
+                    loggingService.logDbReadStart(operations);
+                    return Flux.range(1, operations)
+                            .concatMap(operationNum -> reactiveIpLogRepository
+                                    .findTopNByOrderByTimestampDesc(recordsPerOperation)
+                                    .doOnNext(recentLogs -> {
+                                        loggingService.logDbReadOperation(operationNum, recentLogs.size(),
+                                                recordsPerOperation);
+                                        if (!recentLogs.isEmpty()) {
+                                            long uniqueIps = recentLogs.stream()
+                                                    .map(IpLog::getIp)
+                                                    .distinct()
+                                                    .count();
+                                            loggingService.logDbReadAnalysis(uniqueIps);
+                                        }
+                                    }))
+                            .then();
+                })
+                .doOnSuccess(done -> loggingService.logDbReadComplete(operations));
+    }
+
+    public Mono<Void> performCleanup() {
+        int keepRecordsCount = databaseCleanupService.getKeepRecordsCount();
+        return Mono.defer(() -> {
+                    loggingService.logCleanupStart();
+                    return reactiveIpLogRepository.countTotalRecords();
+                })
+                .flatMap(totalRecordsBefore -> {
+                    loggingService.logCleanupAnalysis(totalRecordsBefore, keepRecordsCount);
+                    if (totalRecordsBefore <= keepRecordsCount) {
+                        loggingService.logCleanupNotNeeded(totalRecordsBefore, keepRecordsCount);
+                        return Mono.<Long>empty();
+                    }
+                    return reactiveIpLogRepository.deleteAllExceptLastN(keepRecordsCount)
+                            .flatMap(deletedRecords -> reactiveIpLogRepository.countTotalRecords()
+                                    .doOnNext(totalRecordsAfter -> loggingService.logCleanupComplete(
+                                            deletedRecords.intValue(), totalRecordsAfter, keepRecordsCount)));
+                })
+                .onErrorResume(e -> {
+                    loggingService.logCleanupError(e.getMessage());
+                    loggingService.logError("Database cleanup failed", e);
+                    return Mono.empty();
+                })
+                .then();
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.demo.startup;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.demo.service.CpuLoadService;
+import com.example.demo.service.DatabaseCleanupService;
+import com.example.demo.service.DatabaseLoadService;
+import com.example.demo.service.DelayLoadService;
+import com.example.demo.service.MemoryLoadService;
+import com.example.demo.service.ReactiveLoadService;
+
+import java.util.Set;
+
+/**
+ * Limits spring.main.lazy-initialization (enabled by the fast-startup profile)
+ * to the load services, which are only needed once a request enables a load type.
+ * Everything else, such as the DataSource, JPA and the controllers, stays eager
+ * so the first /greet does not pay for it.
+ */
+@Configuration
+public class FastStartupConfig {
+
+    private static final Set<Class<?>> LAZY_BEAN_TYPES = Set.of(
+            CpuLoadService.class,
+            MemoryLoadService.class,
+            DelayLoadService.class,
+            DatabaseLoadService.class,
+            DatabaseCleanupService.class,
+            ReactiveLoadService.class);
+
+    @Bean
+    static LazyInitializationExcludeFilter hotBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> !LAZY_BEAN_TYPES.contains(beanType);
+    }
+}
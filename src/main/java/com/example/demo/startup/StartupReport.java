@@ -0,0 +1,98 @@
+package com.example.demo.startup;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.service.LoggingService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Startup timing report: time to context refresh, to ready and to the first
+ * /greet, all measured from JVM start, plus the slowest bean instantiations.
+ * Boot's own application.started.time / application.ready.time metrics cover
+ * the SpringApplication.run part; the full step timeline is on /actuator/startup.
+ */
+@Component
+public class StartupReport {
+
+    private static final String BEAN_INSTANTIATE_STEP = "spring.beans.instantiate";
+
+    @Autowired
+    private LoggingService loggingService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Number of slowest beans listed in the startup report
+    @Value("${app.startup.report.top-beans:10}")
+    private int topBeans;
+
+    private final long jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+    private final AtomicBoolean firstGreetRecorded = new AtomicBoolean();
+
+    @EventListener
+    public void onStarted(ApplicationStartedEvent event) {
+        long refreshedMs = register("app.startup.context-refreshed",
+                "Time from JVM start until the application context was refreshed");
+        loggingService.logStartupContextRefreshed(refreshedMs, event.getTimeTaken().toMillis());
+
+        if (event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup) {
+            startup.getBufferedTimeline().getEvents().stream()
+                    .filter(timelineEvent -> BEAN_INSTANTIATE_STEP.equals(timelineEvent.getStartupStep().getName()))
+                    .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                    .limit(topBeans)
+                    .forEach(timelineEvent -> loggingService.logStartupBeanCost(
+                            beanName(timelineEvent.getStartupStep()), timelineEvent.getDuration().toMillis()));
+        }
+    }
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        long readyMs = register("app.startup.ready",
+                "Time from JVM start until the application was ready to serve requests");
+        loggingService.logStartupReady(readyMs);
+    }
+
+    /**
+     * Records the time to the first completed /greet; later calls are a single flag check
+     */
+    public void recordFirstGreet() {
+        if (firstGreetRecorded.get() || !firstGreetRecorded.compareAndSet(false, true)) {
+            return;
+        }
+        long firstGreetMs = register("app.startup.first-greet",
+                "Time from JVM start until the first /greet request completed");
+        loggingService.logStartupFirstGreet(firstGreetMs);
+    }
+
+    private long register(String name, String description) {
+        long elapsedMs = System.currentTimeMillis() - jvmStartMillis;
+        TimeGauge.builder(name, () -> elapsedMs, TimeUnit.MILLISECONDS)
+                .description(description)
+                .register(meterRegistry);
+        return elapsedMs;
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return "unknown";
+    }
+}
@@ -0,0 +1,6 @@
+CREATE TABLE IF NOT EXISTS ip_log (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255),
+    ip VARCHAR(255),
+    timestamp TIMESTAMP
+);
@@ -0,0 +1,68 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:greeting;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "logging.file.name=",
+        // The "bottleneck" pool size from application.properties
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=3000",
+        "app.load.db.operations=4",
+        "app.load.db.records-per-operation=5",
+        "app.load.db.parallel.concurrency=4"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("local")
+class GreetingControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private IpLogRepository ipLogRepository;
+
+    @Test
+    void concurrentParallelWriteRequestsDoNotStarveThePool() throws Exception {
+        ipLogRepository.deleteAllInBatch();
+
+        // Request threads must not hold a connection while waiting for their batches,
+        // otherwise two requests occupy the whole pool and every batch times out
+        ExecutorService clients = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                String name = "client" + i;
+                statuses.add(clients.submit(() -> mockMvc.perform(post("/greet")
+                                .param("name", name)
+                                .param("enableDbWrites", "true")
+                                .param("parallelDbWrites", "true"))
+                        .andReturn().getResponse().getStatus()));
+            }
+            for (Future<Integer> status : statuses) {
+                assertEquals(200, status.get());
+            }
+        } finally {
+            clients.shutdown();
+        }
+
+        // 2 main log entries plus 4 batches of 5 records per request
+        assertEquals(42, ipLogRepository.count());
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.demo.jdbc;
+
+/**
+ * Test-side assertions on the JDBC activity of a block of code, for catching
+ * statement-count regressions, e.g.
+ *
+ * <pre>
+ * JdbcStatementAssertions.assertJdbc(() -> databaseCleanupService.performCleanup())
+ *         .hasRoundTripsAtMost(3)
+ *         .hasNoBatches();
+ * </pre>
+ *
+ * Work the block hands to other threads is included only when submitted
+ * through {@link JdbcStatementStats#propagate}.
+ */
+public final class JdbcStatementAssertions {
+
+    private final JdbcStatementStats stats;
+
+    private JdbcStatementAssertions(JdbcStatementStats stats) {
+        this.stats = stats;
+    }
+
+    public static JdbcStatementAssertions assertJdbc(Runnable action) {
+        return new JdbcStatementAssertions(JdbcStatementStats.capture(action));
+    }
+
+    public JdbcStatementStats stats() {
+        return stats;
+    }
+
+    public JdbcStatementAssertions hasStatements(long expected) {
+        return check("statements", stats.getStatements(), expected, expected);
+    }
+
+    public JdbcStatementAssertions hasStatementsAtMost(long max) {
+        return check("statements", stats.getStatements(), 0, max);
+    }
+
+    public JdbcStatementAssertions hasBatches(long expected) {
+        return check("batches", stats.getBatches(), expected, expected);
+    }
+
+    public JdbcStatementAssertions hasNoBatches() {
+        return hasBatches(0);
+    }
+
+    public JdbcStatementAssertions hasRoundTrips(long expected) {
+        return check("round trips", stats.getRoundTrips(), expected, expected);
+    }
+
+    public JdbcStatementAssertions hasRoundTripsAtMost(long max) {
+        return check("round trips", stats.getRoundTrips(), 0, max);
+    }
+
+    public JdbcStatementAssertions hasRows(long expected) {
+        return check("rows", stats.getRows(), expected, expected);
+    }
+
+    private JdbcStatementAssertions check(String what, long actual, long min, long max) {
+        if (actual < min || actual > max) {
+            String expected = min == max ? String.valueOf(min) : "at most " + max;
+            throw new AssertionError("Expected " + expected + " JDBC " + what + " but was " + actual
+                    + " (" + stats + ")");
+        }
+        return this;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.demo.service;
+
+import static com.example.demo.jdbc.JdbcStatementAssertions.assertJdbc;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.demo.IpLog;
+import com.example.demo.IpLogRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:database-cleanup;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "logging.file.name=",
+        "app.db.cleanup.keep-records=4"
+})
+@ActiveProfiles("local")
+class DatabaseCleanupServiceTest {
+
+    @Autowired
+    private DatabaseCleanupService databaseCleanupService;
+
+    @Autowired
+    private IpLogRepository ipLogRepository;
+
+    @BeforeEach
+    void clearTable() {
+        ipLogRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void cleanupCountsDeletesAndRecounts() {
+        insertRecords(10);
+
+        // COUNT, DELETE, COUNT - rows are the two count results plus the 6 deleted records
+        assertJdbc(() -> databaseCleanupService.performCleanup())
+                .hasStatements(3)
+                .hasNoBatches()
+                .hasRows(8);
+    }
+
+    @Test
+    void cleanupBelowThresholdOnlyCounts() {
+        insertRecords(2);
+
+        assertJdbc(() -> databaseCleanupService.performCleanup())
+                .hasStatements(1)
+                .hasNoBatches()
+                .hasRows(1);
+    }
+
+    private void insertRecords(int count) {
+        LocalDateTime now = LocalDateTime.now();
+        List<IpLog> logs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            IpLog log = new IpLog();
+            log.setName("test_" + i);
+            log.setIp("127.0.0.1");
+            log.setTimestamp(now.plusSeconds(i));
+            logs.add(log);
+        }
+        ipLogRepository.saveAll(logs);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.demo.service;
+
+import static com.example.demo.jdbc.JdbcStatementAssertions.assertJdbc;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.demo.IpLogRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.LocalDateTime;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:database-load;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "logging.file.name=",
+        "app.load.db.operations=3",
+        "app.load.db.records-per-operation=5"
+})
+@ActiveProfiles("local")
+class DatabaseLoadServiceTest {
+
+    @Autowired
+    private DatabaseLoadService databaseLoadService;
+
+    @Autowired
+    private IpLogRepository ipLogRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void clearTable() {
+        ipLogRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void writesIssueOneInsertPerRecord() {
+        // IDENTITY ids force Hibernate to insert each entity on its own, so saveAll is never a JDBC batch
+        assertJdbc(() -> databaseLoadService.performDatabaseWrites("test", "127.0.0.1", LocalDateTime.now()))
+                .hasStatements(15)
+                .hasNoBatches()
+                .hasRoundTrips(15)
+                .hasRows(15);
+    }
+
+    @Test
+    void parallelWritesAreCountedThroughWorkerThreads() {
+        // Same statements as the sequential path, executed on the db-writer pool
+        assertJdbc(() -> databaseLoadService.performParallelDatabaseWrites("test", "127.0.0.1", LocalDateTime.now()))
+                .hasStatements(15)
+                .hasNoBatches()
+                .hasRoundTrips(15)
+                .hasRows(15);
+        assertEquals(15, ipLogRepository.count());
+    }
+
+    @Test
+    void failedParallelBatchesFailTheCallAndSkipThroughput() {
+        double failuresBefore = meterRegistry.get("app.db.parallel.write.failures").counter().count();
+        long throughputSamplesBefore = meterRegistry.get("app.db.parallel.write.throughput").summary().count();
+
+        // Longer than the name column, so every batch insert is rejected
+        String tooLongName = "x".repeat(300);
+        assertThrows(DataAccessException.class,
+                () -> databaseLoadService.performParallelDatabaseWrites(tooLongName, "127.0.0.1", LocalDateTime.now()));
+
+        assertEquals(failuresBefore + 3, meterRegistry.get("app.db.parallel.write.failures").counter().count());
+        assertEquals(throughputSamplesBefore, meterRegistry.get("app.db.parallel.write.throughput").summary().count());
+        assertEquals(0, ipLogRepository.count());
+    }
+
+    @Test
+    void readsIssueOneQueryPerOperation() {
+        databaseLoadService.performDatabaseWrites("test", "127.0.0.1", LocalDateTime.now());
+
+        assertJdbc(() -> databaseLoadService.performOptimizedDatabaseReads())
+                .hasStatements(3)
+                .hasNoBatches()
+                .hasRoundTrips(3)
+                .hasRows(15);
+    }
+}